@@ -1,13 +1,23 @@
 package com.booking.ticketservice.controller;
 
 import com.booking.ticketservice.dto.EventDTO;
+import com.booking.ticketservice.dto.ImportResultDTO;
+import com.booking.ticketservice.exception.EventImportException;
+import com.booking.ticketservice.service.EventImportFormat;
+import com.booking.ticketservice.service.EventImportService;
 import com.booking.ticketservice.service.TicketService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -16,10 +26,12 @@ import java.util.Map;
 public class TicketController {
     private static final Logger log = LoggerFactory.getLogger(TicketController.class);
     private final TicketService ticketService;
+    private final EventImportService eventImportService;
 
     @Autowired
-    public TicketController(TicketService ticketService) {
+    public TicketController(TicketService ticketService, EventImportService eventImportService) {
         this.ticketService = ticketService;
+        this.eventImportService = eventImportService;
     }
 
     /**
@@ -65,4 +77,32 @@ public class TicketController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    /**
+     * Bulk imports events from a streamed CSV or NDJSON request body.
+     * POST /tickets/import (Content-Type: text/csv or application/x-ndjson)
+     * The body is decoded with the Content-Type charset parameter, defaulting to UTF-8.
+     * Unsupported media types and charsets are rejected with 415 by the consumes condition.
+     */
+    @PostMapping(value = "/import",
+            consumes = {EventImportFormat.CSV_MEDIA_TYPE, EventImportFormat.NDJSON_MEDIA_TYPE})
+    public ResponseEntity<?> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                          InputStream body) throws IOException {
+        log.info("POST /tickets/import - Request to import events ({})", contentType);
+
+        Charset requested = MediaType.parseMediaType(contentType).getCharset();
+        Charset charset = requested != null ? requested : StandardCharsets.UTF_8;
+
+        try {
+            ImportResultDTO result = eventImportService.importEvents(
+                    body, EventImportFormat.fromContentType(contentType), charset);
+            return ResponseEntity.ok(result);
+        } catch (EventImportException e) {
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "error", e.getMessage(),
+                    "rowsImported", e.getRowsImported(),
+                    "failedAtLine", e.getFailedAtLine()
+            ));
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.booking.ticketservice.dto;
+/**
+ * Data Transfer Object (DTO) summarising a bulk event import.
+ */
+public record ImportResultDTO(
+        long rowsImported,
+        long rowsRejected,
+        long elapsedMillis,
+        long rowsPerSecond
+) {
+}
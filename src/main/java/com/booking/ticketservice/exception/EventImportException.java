@@ -0,0 +1,22 @@
+package com.booking.ticketservice.exception;
+
+// Thrown when a batch insert fails part way through an import.
+// Earlier batches are already committed, so the committed row count is carried along.
+public class EventImportException extends RuntimeException {
+    private final long rowsImported;
+    private final long failedAtLine;
+
+    public EventImportException(String message, long rowsImported, long failedAtLine, Throwable cause) {
+        super(message, cause);
+        this.rowsImported = rowsImported;
+        this.failedAtLine = failedAtLine;
+    }
+
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    public long getFailedAtLine() {
+        return failedAtLine;
+    }
+}
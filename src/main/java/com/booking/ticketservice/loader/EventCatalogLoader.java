@@ -0,0 +1,77 @@
+package com.booking.ticketservice.loader;
+
+import com.booking.ticketservice.dto.ImportResultDTO;
+import com.booking.ticketservice.service.EventImportFormat;
+import com.booking.ticketservice.service.EventImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Loads an event catalog on startup when ticket.import.startup-file is set,
+ * e.g. ticket.import.startup-file=file:/data/events.csv or classpath:events.ndjson.
+ * A blank value is treated the same as an unset one: no catalog is loaded.
+ * The file is streamed through EventImportService instead of row-by-row data.sql INSERTs.
+ *
+ * Loading runs once all singletons (including the schema and data.sql) are initialised,
+ * which is before the embedded web server starts accepting requests, so clients never
+ * see a partially loaded catalog.
+ */
+@Component
+@ConditionalOnProperty(name = "ticket.import.startup-file")
+public class EventCatalogLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(EventCatalogLoader.class);
+
+    private final EventImportService eventImportService;
+    private final ResourceLoader resourceLoader;
+    private final String startupFile;
+
+    @Autowired
+    public EventCatalogLoader(EventImportService eventImportService,
+                              ResourceLoader resourceLoader,
+                              @Value("${ticket.import.startup-file}") String startupFile) {
+        this.eventImportService = eventImportService;
+        this.resourceLoader = resourceLoader;
+        this.startupFile = startupFile;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!StringUtils.hasText(startupFile)) {
+            log.info("ticket.import.startup-file is blank - no event catalog loaded");
+            return;
+        }
+
+        Resource resource = resourceLoader.getResource(startupFile);
+        if (!resource.exists()) {
+            throw new IllegalStateException("Event catalog not found: " + startupFile);
+        }
+
+        EventImportFormat format = EventImportFormat.fromFilename(resource.getFilename());
+        log.info("Loading event catalog from {} as {}", startupFile, format);
+
+        ImportResultDTO result;
+        try (InputStream input = resource.getInputStream()) {
+            result = eventImportService.importEvents(input, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read event catalog: " + startupFile, e);
+        }
+
+        log.info("Event catalog loaded: {} events in {} ms ({} rows/s), {} rejected. JVM uptime after load: {} ms",
+                result.rowsImported(), result.elapsedMillis(), result.rowsPerSecond(), result.rowsRejected(),
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+}
@@ -0,0 +1,88 @@
+package com.booking.ticketservice.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Line reader that never buffers more than maxLength characters of a single line.
+ * Characters past the limit are discarded up to the next newline and the line is
+ * flagged as too long, so a body without line breaks cannot exhaust the heap.
+ * Both "\n" and "\r\n" line endings are accepted.
+ */
+class BoundedLineReader {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean tooLong;
+
+    BoundedLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the next line without its terminator, or null at end of input.
+     * When the line exceeded the limit an empty string is returned and isTooLong() is true.
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+        boolean read = false;
+
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return read ? finishLine() : null;
+                }
+            }
+            read = true;
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position);
+
+            if (position < limit) {
+                position++; // consume '\n'
+                return finishLine();
+            }
+        }
+    }
+
+    boolean isTooLong() {
+        return tooLong;
+    }
+
+    private void append(int start, int end) {
+        if (tooLong) {
+            return;
+        }
+        // One extra character is kept so a trailing '\r' does not count against the limit
+        if (line.length() + (end - start) > maxLength + 1) {
+            tooLong = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    private String finishLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        if (line.length() > maxLength) {
+            tooLong = true;
+            line.setLength(0);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.booking.ticketservice.service;
+
+import java.util.Locale;
+
+/**
+ * Supported input formats for bulk event import.
+ * CSV rows are "eventName,availableTickets" (quoted names allowed); a first line naming
+ * those columns is skipped as the header.
+ * NDJSON rows are one {"eventName": ..., "availableTickets": ...} object per line.
+ */
+public enum EventImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    /**
+     * Resolves the format from a request Content-Type header.
+     */
+    public static EventImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(NDJSON_MEDIA_TYPE)) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+
+    /**
+     * Resolves the format from a file name, used by the startup catalog loader.
+     */
+    public static EventImportFormat fromFilename(String filename) {
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,241 @@
+package com.booking.ticketservice.service;
+
+import com.booking.ticketservice.dto.ImportResultDTO;
+import com.booking.ticketservice.exception.EventImportException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Streams events from CSV or NDJSON into the events table.
+ * Rows are read one line at a time (capped at ticket.import.max-line-length characters)
+ * and written with batched JDBC inserts, so memory stays bounded by the batch size
+ * and no JPA entities are managed.
+ * Each batch is committed in its own transaction.
+ */
+@Service
+public class EventImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImportService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO events (event_name, available_tickets) VALUES (?, ?)";
+
+    // Expected CSV header, compared ignoring case and whitespace
+    private static final String CSV_HEADER = "eventname,availabletickets";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Matches the default VARCHAR length Hibernate generates for Event.eventName
+    private static final int MAX_EVENT_NAME_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long progressInterval;
+    private final int maxLineLength;
+
+    @Autowired
+    public EventImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${ticket.import.batch-size:1000}") int batchSize,
+                              @Value("${ticket.import.progress-interval:100000}") long progressInterval,
+                              @Value("${ticket.import.max-line-length:4096}") int maxLineLength) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("ticket.import.batch-size must be positive.");
+        }
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException("ticket.import.max-line-length must be positive.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.progressInterval = progressInterval;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Imports all rows from a UTF-8 stream.
+     */
+    public ImportResultDTO importEvents(InputStream input, EventImportFormat format) throws IOException {
+        return importEvents(input, format, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Imports all rows from the stream. Malformed and over-long rows are skipped and counted as rejected.
+     * The stream is not closed by this method.
+     *
+     * @throws EventImportException if a batch insert fails; batches before it stay committed
+     */
+    public ImportResultDTO importEvents(InputStream input, EventImportFormat format, Charset charset)
+            throws IOException {
+        log.info("Starting {} event import ({}) with batch size {}", format, charset, batchSize);
+        long start = System.nanoTime();
+
+        BoundedLineReader reader = new BoundedLineReader(
+                new InputStreamReader(input, charset), maxLineLength);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        long rejected = 0;
+        long lineNumber = 0;
+        long nextProgress = progressInterval;
+        boolean firstRow = true;
+        long batchStartLine = 0;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (reader.isTooLong()) {
+                    rejected++;
+                    firstRow = false;
+                    log.debug("Rejected row longer than {} characters at line {}", maxLineLength, lineNumber);
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                // Only a first CSV row naming the columns counts as the header; anything else is data
+                boolean header = firstRow && format == EventImportFormat.CSV && isCsvHeader(line);
+                firstRow = false;
+                if (header) {
+                    continue;
+                }
+
+                Object[] row = format == EventImportFormat.NDJSON ? parseNdjson(line) : parseCsv(line);
+                if (row == null) {
+                    rejected++;
+                    log.debug("Rejected malformed row at line {}", lineNumber);
+                    continue;
+                }
+
+                if (batch.isEmpty()) {
+                    batchStartLine = lineNumber;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    imported += flush(batch);
+                    if (progressInterval > 0 && imported >= nextProgress) {
+                        log.info("Imported {} events so far ({} rows/s)",
+                                imported, rowsPerSecond(imported, System.nanoTime() - start));
+                        while (imported >= nextProgress) {
+                            nextProgress += progressInterval;
+                        }
+                    }
+                }
+            }
+            imported += flush(batch);
+        } catch (DataAccessException e) {
+            log.error("Event import failed in the batch at lines {}-{}. {} rows were committed before the failure.",
+                    batchStartLine, lineNumber, imported, e);
+            throw new EventImportException("Import failed in the batch at lines " + batchStartLine + "-" + lineNumber
+                    + ". " + imported + " rows were committed before the failure.", imported, batchStartLine, e);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long rowsPerSecond = rowsPerSecond(imported, elapsedNanos);
+        log.info("Finished {} event import: {} imported, {} rejected in {} ms ({} rows/s)",
+                format, imported, rejected, elapsedMillis, rowsPerSecond);
+
+        return new ImportResultDTO(imported, rejected, elapsedMillis, rowsPerSecond);
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * Parses "eventName,availableTickets". The ticket count is taken after the last comma
+     * so unquoted names may still contain commas; quoted names use "" for a literal quote.
+     */
+    private Object[] parseCsv(String line) {
+        int comma = line.lastIndexOf(',');
+        if (comma < 0) {
+            return null;
+        }
+
+        String name = line.substring(0, comma).trim();
+        if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+            name = name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+
+        Integer tickets = parseTickets(line.substring(comma + 1));
+        if (tickets == null) {
+            return null;
+        }
+        return toRow(name, tickets);
+    }
+
+    private static boolean isCsvHeader(String line) {
+        String normalized = WHITESPACE.matcher(line).replaceAll("").toLowerCase(Locale.ROOT);
+        return CSV_HEADER.equals(normalized);
+    }
+
+    private static Integer parseTickets(String column) {
+        try {
+            return Integer.valueOf(column.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Object[] parseNdjson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+
+        JsonNode name = node.get("eventName");
+        JsonNode tickets = node.get("availableTickets");
+        if (name == null || !name.isTextual()
+                || tickets == null || !tickets.isIntegralNumber() || !tickets.canConvertToInt()) {
+            return null;
+        }
+        return toRow(name.asText(), tickets.intValue());
+    }
+
+    private Object[] toRow(String name, int tickets) {
+        if (name.isBlank() || name.length() > MAX_EVENT_NAME_LENGTH || tickets < 0) {
+            return null;
+        }
+        return new Object[]{name, tickets};
+    }
+
+    private static long rowsPerSecond(long rows, long elapsedNanos) {
+        return rows * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.booking.ticketservice;
+
+import com.booking.ticketservice.repository.EventRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures application startup time with a catalog loaded through ticket.import.startup-file.
+ * Each run boots the full web application (embedded Tomcat on a random port) against its own
+ * in-memory database, and the timing ends once the server is accepting requests.
+ * A catalog-free boot runs first to warm up the JVM and to log the baseline startup time.
+ *
+ * Disabled by default because the larger catalogs take a while. Run with:
+ *   mvn test -Dtest=EventCatalogStartupBenchmarkTest -Dcatalog.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "catalog.benchmark", matches = "true")
+public class EventCatalogStartupBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(EventCatalogStartupBenchmarkTest.class);
+
+    // Rows seeded by data.sql in addition to the catalog
+    private static final int SEED_EVENTS = 4;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void warmUp() {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = boot("--spring.datasource.url=jdbc:h2:mem:startupbaseline")) {
+            log.info("Startup without a catalog (baseline) took {} ms", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000, 1_000_000})
+    void testStartupWithCatalog(int size) throws IOException {
+        Path catalog = tempDir.resolve("events-" + size + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(catalog)) {
+            writer.write("eventName,availableTickets\n");
+            for (int i = 1; i <= size; i++) {
+                writer.write("Generated Event " + i + "," + (i % 500) + "\n");
+            }
+        }
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = boot(
+                "--spring.datasource.url=jdbc:h2:mem:startup" + size,
+                "--ticket.import.startup-file=" + catalog.toUri())) {
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Startup with a catalog of {} events took {} ms", size, startupMillis);
+
+            assertEquals(size + SEED_EVENTS, context.getBean(EventRepository.class).count());
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(String... args) {
+        String[] allArgs = new String[args.length + 2];
+        allArgs[0] = "--server.port=0";
+        allArgs[1] = "--spring.jpa.show-sql=false";
+        System.arraycopy(args, 0, allArgs, 2, args.length);
+        return new SpringApplicationBuilder(TicketServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(allArgs);
+    }
+}
@@ -0,0 +1,108 @@
+package com.booking.ticketservice.controller;
+
+import com.booking.ticketservice.dto.ImportResultDTO;
+import com.booking.ticketservice.exception.EventImportException;
+import com.booking.ticketservice.service.EventImportFormat;
+import com.booking.ticketservice.service.EventImportService;
+import com.booking.ticketservice.service.TicketService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TicketController.class)
+class TicketControllerTest {
+    @MockitoBean
+    private TicketService ticketService;
+
+    @MockitoBean
+    private EventImportService eventImportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+
+    //Import Events
+    @Test
+    void testImportEventsCsv() throws Exception {
+        when(eventImportService.importEvents(any(InputStream.class), eq(EventImportFormat.CSV), eq(StandardCharsets.UTF_8)))
+                .thenReturn(new ImportResultDTO(2, 1, 5, 400));
+
+        mockMvc.perform(post("/tickets/import")
+                        .contentType("text/csv")
+                        .content("Event One,1\nEvent Two,2\nbad row\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsImported").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.elapsedMillis").value(5))
+                .andExpect(jsonPath("$.rowsPerSecond").value(400));
+
+        verify(eventImportService).importEvents(any(InputStream.class), eq(EventImportFormat.CSV), eq(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testImportEventsNdjson() throws Exception {
+        when(eventImportService.importEvents(any(InputStream.class), eq(EventImportFormat.NDJSON), eq(StandardCharsets.UTF_8)))
+                .thenReturn(new ImportResultDTO(1, 0, 1, 1000));
+
+        mockMvc.perform(post("/tickets/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"eventName\":\"Event One\",\"availableTickets\":1}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsImported").value(1));
+
+        verify(eventImportService).importEvents(any(InputStream.class), eq(EventImportFormat.NDJSON), eq(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testImportEventsUsesRequestCharset() throws Exception {
+        when(eventImportService.importEvents(any(InputStream.class), eq(EventImportFormat.CSV), eq(StandardCharsets.ISO_8859_1)))
+                .thenReturn(new ImportResultDTO(1, 0, 1, 1000));
+
+        mockMvc.perform(post("/tickets/import")
+                        .contentType("text/csv;charset=ISO-8859-1")
+                        .content("Caf\u00e9 Concert,40\n".getBytes(StandardCharsets.ISO_8859_1)))
+                .andExpect(status().isOk());
+
+        verify(eventImportService).importEvents(any(InputStream.class), eq(EventImportFormat.CSV), eq(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testImportEventsUnsupportedCharsetReturns415() throws Exception {
+        mockMvc.perform(post("/tickets/import")
+                        .header("Content-Type", "text/csv;charset=nope")
+                        .content("Event One,1\n"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(eventImportService);
+    }
+
+    @Test
+    void testImportEventsFailureReturnsPartialCounts() throws Exception {
+        when(eventImportService.importEvents(any(InputStream.class), eq(EventImportFormat.CSV), eq(StandardCharsets.UTF_8)))
+                .thenThrow(new EventImportException("Import failed in the batch at lines 1001-2000.",
+                        1000, 1001, new DataIntegrityViolationException("Simulated insert failure")));
+
+        mockMvc.perform(post("/tickets/import")
+                        .contentType("text/csv")
+                        .content("Event One,1\n"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Import failed in the batch at lines 1001-2000."))
+                .andExpect(jsonPath("$.rowsImported").value(1000))
+                .andExpect(jsonPath("$.failedAtLine").value(1001));
+    }
+}
@@ -0,0 +1,31 @@
+package com.booking.ticketservice.loader;
+
+import com.booking.ticketservice.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A blank ticket.import.startup-file (e.g. the template line uncommented as "ticket.import.startup-file=")
+ * must boot normally with only the data.sql seed events instead of failing the context refresh.
+ * A separate in-memory database keeps the seed rows independent of the other test contexts.
+ */
+@SpringBootTest(properties = {
+        "ticket.import.startup-file=",
+        "spring.datasource.url=jdbc:h2:mem:blankcatalog"
+})
+public class EventCatalogLoaderTest {
+
+    // Rows seeded by data.sql
+    private static final int SEED_EVENTS = 4;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void testBlankStartupFileLoadsOnlySeedEvents() {
+        assertEquals(SEED_EVENTS, eventRepository.count());
+    }
+}
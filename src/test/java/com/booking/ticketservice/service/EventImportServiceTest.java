@@ -0,0 +1,237 @@
+package com.booking.ticketservice.service;
+
+import com.booking.ticketservice.dto.ImportResultDTO;
+import com.booking.ticketservice.exception.EventImportException;
+import com.booking.ticketservice.model.Event;
+import com.booking.ticketservice.repository.EventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the streaming bulk event import.
+ * Catalog sizes and startup time are measured separately in EventCatalogStartupBenchmarkTest.
+ */
+@SpringBootTest
+public class EventImportServiceTest {
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testImportCsvWithHeaderAndQuotedNames() throws IOException {
+        String csv = """
+                eventName,availableTickets
+                Java Developer meet,100
+                "Rock, Paper & \"\"Scissors\"\"",25
+
+                Cloud Native Day,75
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(3, result.rowsImported());
+        assertEquals(0, result.rowsRejected());
+
+        List<Event> events = eventRepository.findAll();
+        events.sort(Comparator.comparing(Event::getId));
+        assertEquals(3, events.size());
+        assertEquals("Java Developer meet", events.get(0).getEventName());
+        assertEquals(100, events.get(0).getAvailableTickets());
+        assertEquals("Rock, Paper & \"Scissors\"", events.get(1).getEventName());
+        assertEquals(25, events.get(1).getAvailableTickets());
+        assertEquals("Cloud Native Day", events.get(2).getEventName());
+    }
+
+    @Test
+    void testImportCsvRejectsMalformedRows() throws IOException {
+        String csv = """
+                Valid Event,10
+                No Ticket Column
+                Negative Tickets,-5
+                Not A Number,abc
+                ,20
+                Another Valid Event,0
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(2, result.rowsImported());
+        assertEquals(4, result.rowsRejected());
+        assertEquals(2, eventRepository.count());
+    }
+
+    @Test
+    void testImportCsvCountsInvalidFirstRowAsRejected() throws IOException {
+        String csv = """
+                Negative Tickets,-5
+                Valid Event,10
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(1, result.rowsRejected());
+        assertEquals(1, eventRepository.count());
+    }
+
+    @Test
+    void testImportCsvAcceptsHeaderIgnoringCaseAndWhitespace() throws IOException {
+        String csv = """
+                 EventName , AvailableTickets
+                Valid Event,10
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(0, result.rowsRejected());
+    }
+
+    @Test
+    void testImportCsvCountsNonHeaderFirstRowAsRejected() throws IOException {
+        // NDJSON sent as CSV: the first line is not the header, so it must be counted like every other line
+        String csv = """
+                {"eventName":"Angular Global Summit","availableTickets":150}
+                {"eventName":"Microservice Mesh-up","availableTickets":50}
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(0, result.rowsImported());
+        assertEquals(2, result.rowsRejected());
+    }
+
+    @Test
+    void testImportRejectsOverLongLine() throws IOException {
+        // Far beyond ticket.import.max-line-length; the line must be skipped, not buffered
+        String csv = "x".repeat(5_000_000) + ",10\r\nValid Event,10\r\n";
+
+        ImportResultDTO result = eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+
+        assertEquals(1, result.rowsImported());
+        assertEquals(1, result.rowsRejected());
+        assertEquals("Valid Event", eventRepository.findAll().get(0).getEventName());
+    }
+
+    @Test
+    void testImportNdjson() throws IOException {
+        String ndjson = """
+                {"eventName":"Angular Global Summit","availableTickets":150}
+                {"eventName":"Microservice Mesh-up","availableTickets":50}
+                {"eventName":"Missing Tickets"}
+                {"eventName":"Fractional Tickets","availableTickets":1.5}
+                not json
+                """;
+
+        ImportResultDTO result = eventImportService.importEvents(stream(ndjson), EventImportFormat.NDJSON);
+
+        assertEquals(2, result.rowsImported());
+        assertEquals(3, result.rowsRejected());
+        assertEquals(2, eventRepository.count());
+    }
+
+    @Test
+    void testImportSpansMultipleBatches() throws IOException {
+        // 2.5 batches at the default batch size of 1000: two full flushes plus a partial final one
+        int size = 2_500;
+
+        ImportResultDTO result = eventImportService.importEvents(generatedCsv(size), EventImportFormat.CSV);
+
+        assertEquals(size, result.rowsImported());
+        assertEquals(0, result.rowsRejected());
+        assertEquals(size, eventRepository.count());
+    }
+
+    @Test
+    void testImportDecodesRequestedCharset() throws IOException {
+        byte[] csv = "Caf\u00e9 Concert,40\n".getBytes(StandardCharsets.ISO_8859_1);
+
+        ImportResultDTO result = eventImportService.importEvents(
+                new ByteArrayInputStream(csv), EventImportFormat.CSV, StandardCharsets.ISO_8859_1);
+
+        assertEquals(1, result.rowsImported());
+        assertEquals("Caf\u00e9 Concert", eventRepository.findAll().get(0).getEventName());
+    }
+
+    @Test
+    void testImportReportsCommittedRowsWhenBatchFails() {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), Mockito.<List<Object[]>>any()))
+                .thenReturn(new int[2])
+                .thenThrow(new DataIntegrityViolationException("Simulated insert failure"));
+        EventImportService failingImport = new EventImportService(jdbcTemplate,
+                Mockito.mock(PlatformTransactionManager.class), new ObjectMapper(), 2, 0, 4096);
+
+        String csv = """
+                Event One,1
+                Event Two,2
+                Event Three,3
+                Event Four,4
+                Event Five,5
+                """;
+
+        EventImportException e = assertThrows(EventImportException.class,
+                () -> failingImport.importEvents(stream(csv), EventImportFormat.CSV));
+
+        assertEquals(2, e.getRowsImported());
+        assertEquals(3, e.getFailedAtLine());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Produces a CSV catalog one row at a time so large sizes do not need to be buffered.
+     */
+    private static InputStream generatedCsv(int size) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int row = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return row < size;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                row++;
+                return stream("Generated Event " + row + "," + (row % 500) + "\n");
+            }
+        });
+    }
+}